@@ -0,0 +1,55 @@
+#!/bin/bash
+
+# Publishes one Avro-encoded order status message to the Pub/Sub emulator
+# Used by startup-benchmark.sh and train-appcds.sh so a message is waiting before the JVM starts
+
+set -e
+
+PROJECT_ID="cogarc-notification-project"
+EMULATOR_HOST="${PUBSUB_EMULATOR_HOST:-localhost:8085}"
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+PROJECT_DIR="$(dirname "${SCRIPT_DIR}")"
+SAMPLE="${PROJECT_DIR}/src/main/resources/samples/order-status/order-status-1.json"
+SCHEMA="${PROJECT_DIR}/src/main/resources/avro/OrderStatus.avsc"
+
+# Avro-encode the sample message (strings, longs and nullable strings only) for the emulator REST API
+SEED_DATA=$(python3 - "${SCHEMA}" "${SAMPLE}" <<'EOF'
+import base64, json, sys
+
+def zigzag(n):
+    n = (n << 1) ^ (n >> 63)
+    out = bytearray()
+    while n & ~0x7F:
+        out.append((n & 0x7F) | 0x80)
+        n >>= 7
+    out.append(n)
+    return bytes(out)
+
+def encode(kind, value):
+    if kind == "string":
+        data = value.encode("utf-8")
+        return zigzag(len(data)) + data
+    if kind == "long":
+        return zigzag(value)
+    raise ValueError("unsupported type: %s" % kind)
+
+schema = json.load(open(sys.argv[1]))
+record = json.load(open(sys.argv[2]))
+out = bytearray()
+for field in schema["fields"]:
+    kind, value = field["type"], record.get(field["name"])
+    if isinstance(kind, list):
+        if value is None:
+            out += zigzag(kind.index("null"))
+            continue
+        branch = next(t for t in kind if t != "null")
+        out += zigzag(kind.index(branch))
+        kind = branch
+    out += encode(kind, value)
+print(base64.b64encode(bytes(out)).decode())
+EOF
+)
+
+curl -s -f -X POST "http://${EMULATOR_HOST}/v1/projects/${PROJECT_ID}/topics/order-status-topic:publish" \
+    -H "Content-Type: application/json" \
+    -d "{\"messages\":[{\"data\":\"${SEED_DATA}\"}]}"
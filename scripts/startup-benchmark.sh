@@ -0,0 +1,89 @@
+#!/bin/bash
+
+# Startup benchmark: reports time-to-first-message-consumed
+# Usage: ./startup-benchmark.sh [default|fast-start] [runs]
+#
+# Each run publishes one order status message to the emulator before the JVM starts,
+# so the measured time covers JVM start, context startup and the first consumer pull.
+# Build first with `mvn package -Pfast-start`; both modes run the same artifact so the
+# comparison isolates AOT, AppCDS and the fast-start profile.
+
+set -e
+
+# Colors for output
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+RED='\033[0;31m'
+NC='\033[0m' # No Color
+
+MODE="${1:-fast-start}"
+RUNS="${2:-3}"
+EMULATOR_HOST="${PUBSUB_EMULATOR_HOST:-localhost:8085}"
+APP_URL="${APP_URL:-http://localhost:8080}"
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+PROJECT_DIR="$(dirname "${SCRIPT_DIR}")"
+JAR="${PROJECT_DIR}/target/notification-publisher-1.0.0.jar"
+CDS_ARCHIVE="${PROJECT_DIR}/target/application.jsa"
+
+case "$MODE" in
+    default)
+        JAVA_OPTS=()
+        ;;
+    fast-start)
+        if [ ! -f "${CDS_ARCHIVE}" ]; then
+            echo -e "${RED}Error: ${CDS_ARCHIVE} not found. Build with: mvn package -Pfast-start${NC}"
+            exit 1
+        fi
+        JAVA_OPTS=(-XX:SharedArchiveFile="${CDS_ARCHIVE}" -Dspring.aot.enabled=true -Dspring.profiles.active=fast-start)
+        ;;
+    *)
+        echo -e "${RED}Error: Invalid mode: ${MODE}${NC}"
+        echo "Usage: $0 [default|fast-start] [runs]"
+        exit 1
+        ;;
+esac
+
+if [ ! -f "${JAR}" ]; then
+    echo -e "${RED}Error: ${JAR} not found. Build with: mvn package -Pfast-start${NC}"
+    exit 1
+fi
+
+export PUBSUB_EMULATOR_HOST="${EMULATOR_HOST}"
+
+echo -e "${GREEN}Startup benchmark: mode=${MODE}, runs=${RUNS}${NC}"
+echo -e "${YELLOW}Using Pub/Sub emulator at: ${EMULATOR_HOST}${NC}"
+
+RESULTS=()
+for run in $(seq 1 "${RUNS}"); do
+    "${SCRIPT_DIR}/seed-message.sh" > /dev/null
+
+    java "${JAVA_OPTS[@]}" -jar "${JAR}" > "${PROJECT_DIR}/target/startup-benchmark-${MODE}-${run}.log" 2>&1 &
+    APP_PID=$!
+
+    FIRST_MESSAGE_MS=-1
+    for _ in $(seq 1 600); do
+        RESPONSE=$(curl -s "${APP_URL}/api/messages/startup" 2>/dev/null || true)
+        FIRST_MESSAGE_MS=$(echo "${RESPONSE}" | grep -o '"timeToFirstMessageConsumedMs":-\?[0-9]*' | grep -o -- '-\?[0-9]*$' || echo "-1")
+        if [ -n "${FIRST_MESSAGE_MS}" ] && [ "${FIRST_MESSAGE_MS}" -ge 0 ]; then
+            break
+        fi
+        sleep 0.1
+    done
+    READY_MS=$(echo "${RESPONSE}" | grep -o '"timeToReadyMs":-\?[0-9]*' | grep -o -- '-\?[0-9]*$' || echo "unknown")
+
+    kill "${APP_PID}" 2>/dev/null || true
+    wait "${APP_PID}" 2>/dev/null || true
+
+    if [ -z "${FIRST_MESSAGE_MS}" ] || [ "${FIRST_MESSAGE_MS}" -lt 0 ]; then
+        echo -e "${RED}Run ${run}: no message consumed within 60s (see target/startup-benchmark-${MODE}-${run}.log)${NC}"
+        exit 1
+    fi
+    echo "Run ${run}: ready=${READY_MS} ms, first message consumed=${FIRST_MESSAGE_MS} ms"
+    RESULTS+=("${FIRST_MESSAGE_MS}")
+done
+
+TOTAL=0
+for value in "${RESULTS[@]}"; do
+    TOTAL=$((TOTAL + value))
+done
+echo -e "${GREEN}Average time-to-first-message-consumed (${MODE}): $((TOTAL / RUNS)) ms${NC}"
@@ -0,0 +1,85 @@
+#!/bin/bash
+
+# AppCDS training run for the fast-start build (invoked by `mvn package -Pfast-start`)
+# Usage: ./train-appcds.sh <jar> <archive> [context|message]
+#
+# context (default): starts the AOT-processed application and exits right after the context
+#   refresh (spring.context.exit=onRefresh). Self-contained: no Pub/Sub connection is made, but
+#   the archive covers context startup only, not the route, Pub/Sub client, gRPC and Avro classes.
+# message: seeds one message, starts the application against the Pub/Sub emulator and exits once
+#   that message is consumed, so the archive covers the whole path to the first consumed message.
+#   Requires the emulator with topics and subscriptions (./setup-pubsub.sh) and consumes from
+#   order-status-subscription. Opt in with: mvn package -Pfast-start -Dappcds.training=message
+
+set -e
+
+# Colors for output
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+RED='\033[0;31m'
+NC='\033[0m' # No Color
+
+JAR="$1"
+ARCHIVE="$2"
+TRAINING="${3:-context}"
+TIMEOUT_SECONDS="${TRAINING_TIMEOUT_SECONDS:-120}"
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+export PUBSUB_EMULATOR_HOST="${PUBSUB_EMULATOR_HOST:-localhost:8085}"
+
+if [ -z "${JAR}" ] || [ -z "${ARCHIVE}" ]; then
+    echo -e "${RED}Error: jar and archive paths are required${NC}"
+    echo "Usage: $0 <jar> <archive> [context|message]"
+    exit 1
+fi
+
+case "$TRAINING" in
+    context)
+        TRAINING_OPTS=(-Dspring.context.exit=onRefresh)
+        ;;
+    message)
+        echo -e "${YELLOW}Using Pub/Sub emulator at: ${PUBSUB_EMULATOR_HOST}${NC}"
+        if ! "${SCRIPT_DIR}/seed-message.sh" > /dev/null; then
+            echo -e "${RED}Error: could not publish the training message. Is the emulator running and set up (./setup-pubsub.sh)?${NC}"
+            echo "Train without the emulator with: mvn package -Pfast-start -Dappcds.training=context"
+            exit 1
+        fi
+        TRAINING_OPTS=(-Dapp.startup.exit-after-first-message=true)
+        ;;
+    *)
+        echo -e "${RED}Error: Invalid training mode: ${TRAINING}${NC}"
+        echo "Usage: $0 <jar> <archive> [context|message]"
+        exit 1
+        ;;
+esac
+
+echo -e "${GREEN}AppCDS training run (${TRAINING}): ${JAR} -> ${ARCHIVE}${NC}"
+
+rm -f "${ARCHIVE}"
+java -XX:ArchiveClassesAtExit="${ARCHIVE}" \
+    -Dspring.aot.enabled=true \
+    -Dspring.profiles.active=fast-start \
+    -Dserver.port=0 \
+    "${TRAINING_OPTS[@]}" \
+    -jar "${JAR}" &
+APP_PID=$!
+
+for _ in $(seq 1 "${TIMEOUT_SECONDS}"); do
+    if ! kill -0 "${APP_PID}" 2>/dev/null; then
+        break
+    fi
+    sleep 1
+done
+
+if kill -0 "${APP_PID}" 2>/dev/null; then
+    kill "${APP_PID}" 2>/dev/null || true
+    wait "${APP_PID}" 2>/dev/null || true
+    echo -e "${RED}Error: training run did not exit within ${TIMEOUT_SECONDS}s, archive not written${NC}"
+    exit 1
+fi
+
+wait "${APP_PID}"
+if [ ! -f "${ARCHIVE}" ]; then
+    echo -e "${RED}Error: training run exited without writing ${ARCHIVE}${NC}"
+    exit 1
+fi
+echo -e "${GREEN}AppCDS archive written: ${ARCHIVE}${NC}"
@@ -0,0 +1,43 @@
+package com.cogarc.notification.capture;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the raw Pub/Sub payload before it is unmarshalled. The message type is taken
+ * from the {@code messageType} exchange property set by each consumer route.
+ */
+@Component("captureProcessor")
+public class CaptureProcessor implements Processor {
+
+    private static final Logger logger = LoggerFactory.getLogger(CaptureProcessor.class);
+
+    public static final String MESSAGE_TYPE_PROPERTY = "messageType";
+
+    @Autowired
+    private CaptureWriter captureWriter;
+
+    @Override
+    public void process(Exchange exchange) throws Exception {
+        if (!captureWriter.isCapturing()) {
+            return;
+        }
+        long arrivalTimestamp = System.currentTimeMillis();
+        String messageType = exchange.getProperty(MESSAGE_TYPE_PROPERTY, String.class);
+        byte[] payload = exchange.getIn().getBody(byte[].class);
+        if (messageType == null || payload == null) {
+            logger.warn("Skipping capture of message without type or payload (type: {})", messageType);
+            return;
+        }
+        try {
+            captureWriter.append(messageType, arrivalTimestamp, payload);
+        } catch (Exception e) {
+            // Capture must never stop the consumer route
+            logger.error("Failed to capture {} message", messageType, e);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.cogarc.notification.capture;
+
+import com.cogarc.notification.avro.CapturedMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends consumed payloads to rolling Avro object-container files.
+ * Records are buffered into Avro blocks of {@code sync-interval-bytes}. A block is written
+ * when it fills up, or after {@code flush-interval-ms} at the latest, so a quiet subscription
+ * does not keep records in memory indefinitely.
+ */
+@Component
+public class CaptureWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(CaptureWriter.class);
+
+    static final String FILE_PREFIX = "capture-";
+    static final String FILE_SUFFIX = ".avro";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    @Value("${app.capture.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.capture.directory:capture}")
+    private String directory;
+
+    @Value("${app.capture.max-file-size-bytes:67108864}")
+    private long maxFileSizeBytes;
+
+    @Value("${app.capture.sync-interval-bytes:65536}")
+    private int syncIntervalBytes;
+
+    @Value("${app.capture.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    private volatile boolean suspended;
+
+    private DataFileWriter<CapturedMessage> writer;
+    private CountingOutputStream currentOut;
+    private Path currentFile;
+    private boolean unflushed;
+    private int fileSequence;
+
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    public void startFlusher() {
+        if (!enabled) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "capture-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isCapturing() {
+        return enabled && !suspended;
+    }
+
+    /**
+     * Stops capturing and closes the current file, e.g. while captured traffic is being replayed
+     * so the replayed messages are not captured a second time.
+     */
+    public synchronized void suspend() {
+        if (!enabled || suspended) {
+            return;
+        }
+        suspended = true;
+        logger.info("Capture suspended");
+        closeQuietly();
+    }
+
+    public synchronized void resume() {
+        if (!enabled || !suspended) {
+            return;
+        }
+        suspended = false;
+        logger.info("Capture resumed");
+    }
+
+    public synchronized void append(String messageType, long arrivalTimestamp, byte[] payload) throws IOException {
+        if (suspended) {
+            return;
+        }
+        if (writer == null || currentOut.getCount() >= maxFileSizeBytes) {
+            roll();
+        }
+        writer.append(new CapturedMessage(messageType, arrivalTimestamp, ByteBuffer.wrap(payload)));
+        unflushed = true;
+    }
+
+    /**
+     * Writes any buffered records to the current file as a complete block.
+     */
+    synchronized void flush() {
+        if (writer == null || !unflushed) {
+            return;
+        }
+        try {
+            writer.flush();
+            unflushed = false;
+        } catch (IOException e) {
+            logger.error("Failed to flush capture file: {}", currentFile, e);
+        }
+    }
+
+    private void roll() throws IOException {
+        closeCurrent();
+
+        Path dirPath = Paths.get(directory);
+        Files.createDirectories(dirPath);
+        // The sequence keeps names unique and ordered when files roll within the same millisecond
+        Path file = dirPath.resolve(String.format("%s%s-%06d%s",
+            FILE_PREFIX, LocalDateTime.now().format(FILE_TIMESTAMP), ++fileSequence, FILE_SUFFIX));
+        CountingOutputStream out = new CountingOutputStream(
+            Files.newOutputStream(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+
+        DataFileWriter<CapturedMessage> newWriter = new DataFileWriter<>(new SpecificDatumWriter<>(CapturedMessage.class));
+        try {
+            newWriter.setSyncInterval(syncIntervalBytes);
+            newWriter.create(CapturedMessage.getClassSchema(), out);
+        } catch (IOException | RuntimeException e) {
+            out.close();
+            throw e;
+        }
+
+        writer = newWriter;
+        currentOut = out;
+        currentFile = file;
+        logger.info("Capturing consumed messages to: {}", currentFile.toAbsolutePath());
+    }
+
+    private void closeCurrent() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        DataFileWriter<CapturedMessage> closing = writer;
+        writer = null;
+        unflushed = false;
+        try {
+            closing.close();
+            logger.info("Closed capture file: {} ({} bytes)", currentFile.toAbsolutePath(), currentOut.getCount());
+        } finally {
+            currentOut = null;
+            currentFile = null;
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            closeCurrent();
+        } catch (IOException e) {
+            logger.error("Failed to close capture file", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        closeQuietly();
+    }
+
+    /**
+     * Tracks how many bytes Avro has flushed to the current file so it can be rolled by size.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
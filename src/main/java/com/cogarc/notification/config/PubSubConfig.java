@@ -2,6 +2,7 @@ package com.cogarc.notification.config;
 
 import com.google.api.gax.core.CredentialsProvider;
 import com.google.api.gax.core.NoCredentialsProvider;
+import org.apache.camel.component.google.pubsub.GooglePubsubComponent;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,27 +19,6 @@ public class PubSubConfig {
     @Value("${spring.cloud.gcp.pubsub.emulator-host:}")
     private String emulatorHost;
 
-    // Set emulator host as early as possible
-    static {
-        // Check if environment variable is set, if not, use default
-        String envHost = System.getenv("PUBSUB_EMULATOR_HOST");
-        if (envHost == null || envHost.isEmpty()) {
-            // Default to localhost:8085 if not set
-            String defaultHost = "localhost:8085";
-            System.setProperty("PUBSUB_EMULATOR_HOST", defaultHost);
-            // Try to set as environment variable (may not work, but try)
-            try {
-                // This is a workaround - the env var should be set before JVM starts
-                // But we set the system property which some libraries also check
-            } catch (Exception e) {
-                // Ignore - system property should be sufficient
-            }
-        } else {
-            // Ensure system property matches environment variable
-            System.setProperty("PUBSUB_EMULATOR_HOST", envHost);
-        }
-    }
-
     @PostConstruct
     public void setEmulatorHost() {
         // Ensure PUBSUB_EMULATOR_HOST system property is set for Camel component
@@ -64,6 +44,17 @@ public class PubSubConfig {
         return () -> null;
     }
 
+    @Bean("google-pubsub")
+    public GooglePubsubComponent googlePubsubComponent() {
+        // The Camel component does not read PUBSUB_EMULATOR_HOST, so point it at the emulator explicitly
+        GooglePubsubComponent component = new GooglePubsubComponent();
+        if (emulatorHost != null && !emulatorHost.isEmpty()) {
+            component.setEndpoint(emulatorHost);
+            component.setAuthenticate(false);
+        }
+        return component;
+    }
+
     // Topic names as beans for easy injection
     @Bean("orderStatusTopic")
     public String orderStatusTopic(@Value("${app.pubsub.topics.order-status}") String topic) {
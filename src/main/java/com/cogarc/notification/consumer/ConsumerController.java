@@ -15,10 +15,17 @@ public class ConsumerController {
     @Autowired
     private MessageStorage messageStorage;
 
+    @Autowired
+    private StartupMetrics startupMetrics;
+
     @GetMapping("/count")
     public ResponseEntity<Map<String, MessageCountResponse>> getMessageCounts() {
         Map<String, MessageCountResponse> counts = messageStorage.getAllCounts();
         return ResponseEntity.ok(counts);
     }
-}
 
+    @GetMapping("/startup")
+    public ResponseEntity<Map<String, Long>> getStartupMetrics() {
+        return ResponseEntity.ok(startupMetrics.getMetrics());
+    }
+}
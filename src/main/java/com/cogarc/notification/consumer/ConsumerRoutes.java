@@ -0,0 +1,37 @@
+package com.cogarc.notification.consumer;
+
+import com.cogarc.notification.avro.OrderStatus;
+import com.cogarc.notification.avro.TourAppointmentConfirmation;
+import com.cogarc.notification.avro.TruckloadConfirmation;
+import com.cogarc.notification.avro.UCC;
+import com.cogarc.notification.capture.CaptureProcessor;
+import org.apache.camel.builder.RouteBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumer routes: one route per message type that pulls from its subscription, captures the raw
+ * payload, unmarshals the Avro bytes and hands the record to the type's processor. Defined in the
+ * Java DSL so the routes are compiled with the application instead of parsed on every start.
+ */
+@Component
+public class ConsumerRoutes extends RouteBuilder {
+
+    @Override
+    public void configure() {
+        consumerRoute("order-status", "order status", OrderStatus.class, "orderStatusProcessor");
+        consumerRoute("ucc", "UCC", UCC.class, "uccProcessor");
+        consumerRoute("tour-appointment", "tour appointment", TourAppointmentConfirmation.class, "tourAppointmentProcessor");
+        consumerRoute("truckload", "truckload", TruckloadConfirmation.class, "truckloadProcessor");
+    }
+
+    private void consumerRoute(String messageType, String description, Class<?> avroClass, String processorRef) {
+        from("google-pubsub:cogarc-notification-project:" + messageType + "-subscription")
+            .routeId(messageType + "-consumer")
+            .log("Received " + description + " message from Pub/Sub")
+            .setProperty(CaptureProcessor.MESSAGE_TYPE_PROPERTY, constant(messageType))
+            .process("captureProcessor")
+            .unmarshal().avro(avroClass.getName())
+            .process(processorRef)
+            .log("Processed " + description + " message with ID: ${body.id}");
+    }
+}
@@ -2,6 +2,7 @@ package com.cogarc.notification.consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -12,6 +13,9 @@ public class MessageStorage {
 
     private static final Logger logger = LoggerFactory.getLogger(MessageStorage.class);
 
+    @Autowired
+    private StartupMetrics startupMetrics;
+
     // Store counts and identifiers per message type
     private final Map<String, MessageCountResponse> messageCounts = new ConcurrentHashMap<>();
 
@@ -29,6 +33,7 @@ public class MessageStorage {
                 messageType, identifier, value.getCount());
             return value;
         });
+        startupMetrics.markMessageConsumed();
     }
 
     public Map<String, MessageCountResponse> getAllCounts() {
@@ -0,0 +1,79 @@
+package com.cogarc.notification.consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records how long after JVM start the application became ready and consumed its first message.
+ * Reported by {@code scripts/startup-benchmark.sh}.
+ * <p>
+ * With {@code app.startup.exit-after-first-message} set, the application shuts down once the first
+ * message is consumed. The AppCDS training run ({@code scripts/train-appcds.sh}) uses this so the
+ * archive covers the whole path to the first consumed message.
+ */
+@Component
+public class StartupMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupMetrics.class);
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Value("${app.startup.exit-after-first-message:false}")
+    private boolean exitAfterFirstMessage;
+
+    private final AtomicLong readyMillis = new AtomicLong(-1);
+    private final AtomicLong firstMessageConsumedMillis = new AtomicLong(-1);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        readyMillis.set(uptime);
+        logger.info("Time to application ready: {} ms", uptime);
+    }
+
+    public void markMessageConsumed() {
+        if (firstMessageConsumedMillis.get() >= 0) {
+            return;
+        }
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        if (firstMessageConsumedMillis.compareAndSet(-1, uptime)) {
+            logger.info("Time to first message consumed: {} ms", uptime);
+            if (exitAfterFirstMessage) {
+                exitAfterFirstMessage();
+            }
+        }
+    }
+
+    private void exitAfterFirstMessage() {
+        // Exit from a separate thread: closing the context stops the Camel route this call came from
+        Thread exitThread = new Thread(() -> {
+            logger.info("First message consumed, exiting (app.startup.exit-after-first-message)");
+            exit();
+        }, "startup-exit");
+        exitThread.start();
+    }
+
+    void exit() {
+        System.exit(SpringApplication.exit(applicationContext));
+    }
+
+    public Map<String, Long> getMetrics() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put("timeToReadyMs", readyMillis.get());
+        metrics.put("timeToFirstMessageConsumedMs", firstMessageConsumedMillis.get());
+        return metrics;
+    }
+}
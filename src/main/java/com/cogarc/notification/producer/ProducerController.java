@@ -1,6 +1,8 @@
 package com.cogarc.notification.producer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -8,11 +10,15 @@ import java.util.Map;
 
 @RestController
 @RequestMapping("/api/producer")
+@Lazy
 public class ProducerController {
 
     @Autowired
     private ProducerService producerService;
 
+    @Autowired
+    private ReplayService replayService;
+
     @PostMapping("/batch/{messageType}")
     public ResponseEntity<Map<String, Object>> publishBatch(@PathVariable String messageType) {
         int count = producerService.publishBatch(messageType);
@@ -22,5 +28,43 @@ public class ProducerController {
             "status", "success"
         ));
     }
-}
 
+    @PostMapping("/replay")
+    public ResponseEntity<Map<String, Object>> replay(
+            @RequestParam(defaultValue = ReplayService.MODE_ORIGINAL) String mode) {
+        if (!ReplayService.isValidMode(mode)) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "mode", mode,
+                "status", "error",
+                "message", "Invalid replay mode, expected " + ReplayService.MODE_ORIGINAL + " or " + ReplayService.MODE_FAST
+            ));
+        }
+        if (!replayService.startReplay(mode)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                "mode", mode,
+                "status", "error",
+                "message", "A replay is already running"
+            ));
+        }
+        return ResponseEntity.accepted().body(Map.of(
+            "mode", mode,
+            "status", "started"
+        ));
+    }
+
+    @GetMapping("/replay")
+    public ResponseEntity<Map<String, Object>> getReplayStatus() {
+        return ResponseEntity.ok(replayService.getStatus());
+    }
+
+    @DeleteMapping("/replay")
+    public ResponseEntity<Map<String, Object>> cancelReplay() {
+        if (!replayService.cancelReplay()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                "status", "error",
+                "message", "No replay is running"
+            ));
+        }
+        return ResponseEntity.ok(replayService.getStatus());
+    }
+}
@@ -1,5 +1,9 @@
 package com.cogarc.notification.producer;
 
+import com.cogarc.notification.avro.OrderStatus;
+import com.cogarc.notification.avro.TourAppointmentConfirmation;
+import com.cogarc.notification.avro.TruckloadConfirmation;
+import com.cogarc.notification.avro.UCC;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -9,6 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.io.File;
@@ -26,6 +31,7 @@ import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 
 @Service
+@Lazy
 public class ProducerService {
 
     private static final Logger logger = LoggerFactory.getLogger(ProducerService.class);
@@ -60,29 +66,10 @@ public class ProducerService {
     @Value("${app.pubsub.topics.truckload}")
     private String truckloadTopic;
 
-    private final Map<String, Schema> schemas = new HashMap<>();
-
-    public ProducerService() {
-        // Load Avro schemas
-        try {
-            schemas.put("order-status", new Schema.Parser().parse(
-                getClass().getResourceAsStream("/avro/OrderStatus.avsc")));
-            schemas.put("ucc", new Schema.Parser().parse(
-                getClass().getResourceAsStream("/avro/UCC.avsc")));
-            schemas.put("tour-appointment", new Schema.Parser().parse(
-                getClass().getResourceAsStream("/avro/TourAppointmentConfirmation.avsc")));
-            schemas.put("truckload", new Schema.Parser().parse(
-                getClass().getResourceAsStream("/avro/TruckloadConfirmation.avsc")));
-        } catch (IOException e) {
-            logger.error("Failed to load Avro schemas", e);
-            throw new RuntimeException("Failed to load Avro schemas", e);
-        }
-    }
-
     public int publishBatch(String messageType) {
         String directory = getDirectoryForType(messageType);
         String topic = getTopicForType(messageType);
-        Schema schema = schemas.get(messageType);
+        Schema schema = getSchemaForType(messageType);
 
         if (directory == null || topic == null || schema == null) {
             logger.error("Invalid message type: {}", messageType);
@@ -143,9 +130,7 @@ public class ProducerService {
                     byte[] avroBytes = serializeAvro(avroRecord, schema);
 
                     // Publish to Pub/Sub
-                    // Format: google-pubsub:projectId:destinationName
-                    String endpoint = "google-pubsub:cogarc-notification-project:" + topic;
-                    producerTemplate.sendBody(endpoint, avroBytes);
+                    producerTemplate.sendBody(getEndpointForTopic(topic), avroBytes);
 
                     publishedCount++;
                     logger.info("Published message from {} (count: {})", jsonFileName, publishedCount);
@@ -162,6 +147,24 @@ public class ProducerService {
         return publishedCount;
     }
 
+    /**
+     * Publishes bytes that are already Avro-encoded, e.g. payloads replayed from a capture file.
+     */
+    public boolean publishEncoded(String messageType, byte[] avroBytes) {
+        String topic = getTopicForType(messageType);
+        if (topic == null) {
+            logger.error("Invalid message type: {}", messageType);
+            return false;
+        }
+        producerTemplate.sendBody(getEndpointForTopic(topic), avroBytes);
+        return true;
+    }
+
+    private String getEndpointForTopic(String topic) {
+        // Format: google-pubsub:projectId:destinationName
+        return "google-pubsub:cogarc-notification-project:" + topic;
+    }
+
     private List<String> findJsonFilesInClasspath(String directory) {
         List<String> fileNames = new ArrayList<>();
         try {
@@ -325,5 +328,15 @@ public class ProducerService {
             default -> null;
         };
     }
-}
 
+    private Schema getSchemaForType(String messageType) {
+        // Reuse the schemas the generated classes already parsed instead of parsing the .avsc files again
+        return switch (messageType) {
+            case "order-status" -> OrderStatus.getClassSchema();
+            case "ucc" -> UCC.getClassSchema();
+            case "tour-appointment" -> TourAppointmentConfirmation.getClassSchema();
+            case "truckload" -> TruckloadConfirmation.getClassSchema();
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,271 @@
+package com.cogarc.notification.producer;
+
+import com.cogarc.notification.avro.CapturedMessage;
+import com.cogarc.notification.capture.CaptureWriter;
+import jakarta.annotation.PreDestroy;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Streams captured payloads back into their topics. Payloads are published exactly as
+ * they were captured, without any JSON or Avro re-encoding. Replays run one at a time on
+ * a background thread; progress is available through {@link #getStatus()}.
+ * <p>
+ * In original-timing mode, a gap between two consecutive messages longer than
+ * {@code app.replay.max-gap-ms} is shortened to that limit, so captures from sessions hours
+ * apart do not make the replay sleep through the whole gap.
+ */
+@Service
+@Lazy
+public class ReplayService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplayService.class);
+
+    public static final String MODE_ORIGINAL = "original";
+    public static final String MODE_FAST = "fast";
+
+    @Autowired
+    private ProducerService producerService;
+
+    @Autowired
+    private CaptureWriter captureWriter;
+
+    @Value("${app.replay.directory:replay}")
+    private String replayDir;
+
+    @Value("${app.replay.max-gap-ms:60000}")
+    private long maxGapMs;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "capture-replay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicInteger replayedCount = new AtomicInteger();
+    private final AtomicInteger failedCount = new AtomicInteger();
+    private Future<?> currentReplay;
+    private volatile Thread worker;
+    private volatile boolean cancelRequested;
+    private volatile String currentMode;
+    private volatile String currentFile;
+    private volatile long waitingMs;
+    // Only the replay thread sets terminal states (completed, cancelled, failed)
+    private volatile String state = "idle";
+
+    public static boolean isValidMode(String mode) {
+        return MODE_ORIGINAL.equals(mode) || MODE_FAST.equals(mode);
+    }
+
+    /**
+     * Starts a replay in the background.
+     *
+     * @return false if a replay is already running
+     */
+    public synchronized boolean startReplay(String mode) {
+        if (!isValidMode(mode)) {
+            throw new IllegalArgumentException("Invalid replay mode: " + mode);
+        }
+        if (currentReplay != null && !currentReplay.isDone()) {
+            logger.warn("Replay already running (mode: {}), rejecting new replay", currentMode);
+            return false;
+        }
+        replayedCount.set(0);
+        failedCount.set(0);
+        cancelRequested = false;
+        currentMode = mode;
+        currentFile = null;
+        waitingMs = 0;
+        state = "running";
+        currentReplay = executor.submit(() -> replay(MODE_ORIGINAL.equals(mode)));
+        return true;
+    }
+
+    /**
+     * Requests cancellation of the running replay, if any. The replay thread stops before the
+     * next message and moves to the {@code cancelled} state.
+     *
+     * @return false if no replay was running
+     */
+    public synchronized boolean cancelReplay() {
+        if (currentReplay == null || currentReplay.isDone()) {
+            return false;
+        }
+        cancelRequested = true;
+        Thread replayThread = worker;
+        if (replayThread != null) {
+            replayThread.interrupt();
+        }
+        logger.info("Replay cancellation requested after {} messages", replayedCount.get());
+        return true;
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", state);
+        status.put("mode", currentMode);
+        status.put("replayedCount", replayedCount.get());
+        status.put("failedCount", failedCount.get());
+        status.put("currentFile", currentFile);
+        status.put("waitingMs", waitingMs);
+        status.put("cancelRequested", cancelRequested);
+        return status;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void replay(boolean originalTiming) {
+        worker = Thread.currentThread();
+        // Replayed messages come back through the consumer routes; don't capture them again
+        captureWriter.suspend();
+        try {
+            state = replayFiles(originalTiming);
+        } catch (InterruptedException e) {
+            state = "cancelled";
+        } finally {
+            worker = null;
+            // Clear a cancel interrupt so it doesn't leak into the next task on this thread
+            Thread.interrupted();
+            captureWriter.resume();
+            currentFile = null;
+            waitingMs = 0;
+        }
+        logger.info("Replay {}. Published {} messages, {} failed", state, replayedCount.get(), failedCount.get());
+    }
+
+    private String replayFiles(boolean originalTiming) throws InterruptedException {
+        Path dirPath = Paths.get(replayDir);
+        if (!Files.isDirectory(dirPath)) {
+            logger.warn("Replay directory does not exist: {}", dirPath.toAbsolutePath());
+            return "failed";
+        }
+
+        List<Path> captureFiles;
+        try (Stream<Path> files = Files.list(dirPath)) {
+            // Capture file names start with their creation time, so name order is capture order
+            captureFiles = files
+                .filter(path -> path.getFileName().toString().endsWith(".avro"))
+                .sorted()
+                .collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.error("Failed to list replay directory: {}", dirPath.toAbsolutePath(), e);
+            return "failed";
+        }
+
+        if (captureFiles.isEmpty()) {
+            logger.warn("No capture files found in: {}", dirPath.toAbsolutePath());
+            return "completed";
+        }
+
+        logger.info("Replaying {} capture files from {} (mode: {})", captureFiles.size(), dirPath.toAbsolutePath(), currentMode);
+
+        // Messages are scheduled against a baseline rather than the previous message so delays don't accumulate;
+        // the baseline moves forward whenever a gap is capped
+        long baselineArrival = -1;
+        long previousArrival = -1;
+        long replayStartNanos = System.nanoTime();
+        for (Path captureFile : captureFiles) {
+            currentFile = captureFile.getFileName().toString();
+            try (DataFileReader<CapturedMessage> reader = new DataFileReader<>(
+                    captureFile.toFile(), new SpecificDatumReader<>(CapturedMessage.class))) {
+                while (reader.hasNext()) {
+                    checkCancelled();
+                    CapturedMessage message = reader.next();
+                    if (originalTiming) {
+                        long arrival = message.getArrivalTimestamp();
+                        if (baselineArrival < 0) {
+                            baselineArrival = arrival;
+                        } else if (arrival - previousArrival > maxGapMs) {
+                            logger.warn("Capping {} ms gap before message in {} to {} ms",
+                                arrival - previousArrival, currentFile, maxGapMs);
+                            baselineArrival += arrival - previousArrival - maxGapMs;
+                        }
+                        previousArrival = arrival;
+                        long dueNanos = TimeUnit.MILLISECONDS.toNanos(arrival - baselineArrival);
+                        long waitNanos = dueNanos - (System.nanoTime() - replayStartNanos);
+                        if (waitNanos > 0) {
+                            waitingMs = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+                            TimeUnit.NANOSECONDS.sleep(waitNanos);
+                            waitingMs = 0;
+                        }
+                    }
+                    publish(message);
+                }
+                logger.info("Replayed capture file: {} (total: {})", captureFile.getFileName(), replayedCount.get());
+            } catch (IOException | RuntimeException e) {
+                failedCount.incrementAndGet();
+                logger.error("Failed to read capture file: {}", captureFile, e);
+            }
+        }
+
+        return failedCount.get() > 0 ? "failed" : "completed";
+    }
+
+    private void publish(CapturedMessage message) throws InterruptedException {
+        try {
+            if (producerService.publishEncoded(message.getMessageType(), toBytes(message.getPayload()))) {
+                replayedCount.incrementAndGet();
+            } else {
+                failedCount.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            // A cancel interrupts the thread, which can surface as a wrapped exception from the producer
+            checkCancelled();
+            if (isCausedByInterrupt(e)) {
+                throw new InterruptedException("Replay interrupted while publishing");
+            }
+            failedCount.incrementAndGet();
+            logger.error("Failed to publish replayed {} message", message.getMessageType(), e);
+        }
+    }
+
+    private void checkCancelled() throws InterruptedException {
+        if (cancelRequested || Thread.currentThread().isInterrupted()) {
+            throw new InterruptedException("Replay cancelled");
+        }
+    }
+
+    private static boolean isCausedByInterrupt(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private byte[] toBytes(ByteBuffer payload) {
+        if (payload.hasArray() && payload.arrayOffset() == 0 && payload.position() == 0
+                && payload.remaining() == payload.array().length) {
+            return payload.array();
+        }
+        byte[] bytes = new byte[payload.remaining()];
+        payload.duplicate().get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,125 @@
+package com.cogarc.notification.capture;
+
+import com.cogarc.notification.avro.CapturedMessage;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaptureWriterTest {
+
+    @TempDir
+    Path captureDir;
+
+    private CaptureWriter captureWriter;
+
+    @BeforeEach
+    void setUp() {
+        captureWriter = new CaptureWriter();
+        ReflectionTestUtils.setField(captureWriter, "enabled", true);
+        ReflectionTestUtils.setField(captureWriter, "directory", captureDir.toString());
+        ReflectionTestUtils.setField(captureWriter, "maxFileSizeBytes", 1024L);
+        // Smallest sync interval Avro allows, so blocks reach the file (and the size check) quickly
+        ReflectionTestUtils.setField(captureWriter, "syncIntervalBytes", 32);
+        ReflectionTestUtils.setField(captureWriter, "flushIntervalMs", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        captureWriter.close();
+    }
+
+    @Test
+    void roundTripsPayloadsAcrossRolledFiles() throws IOException {
+        List<String> types = List.of("order-status", "ucc", "tour-appointment", "truckload");
+        int messageCount = 40;
+        for (int i = 0; i < messageCount; i++) {
+            captureWriter.append(types.get(i % types.size()), 1_700_000_000_000L + i * 250L, payload(i));
+        }
+        captureWriter.close();
+
+        List<Path> files = captureFiles();
+        assertTrue(files.size() > 1, "expected the size limit to roll the capture file, got " + files);
+
+        List<CapturedMessage> messages = readAll(files);
+        assertEquals(messageCount, messages.size());
+        for (int i = 0; i < messageCount; i++) {
+            CapturedMessage message = messages.get(i);
+            assertEquals(types.get(i % types.size()), message.getMessageType());
+            assertEquals(1_700_000_000_000L + i * 250L, message.getArrivalTimestamp());
+            assertArrayEquals(payload(i), toBytes(message.getPayload()));
+        }
+    }
+
+    @Test
+    void flushMakesRecordsReadableBeforeClose() throws IOException {
+        ReflectionTestUtils.setField(captureWriter, "syncIntervalBytes", 65536);
+        captureWriter.append("ucc", 1_700_000_000_000L, payload(1));
+
+        captureWriter.flush();
+
+        List<CapturedMessage> messages = readAll(captureFiles());
+        assertEquals(1, messages.size());
+        assertArrayEquals(payload(1), toBytes(messages.get(0).getPayload()));
+    }
+
+    @Test
+    void suspendClosesCurrentFileAndSkipsAppends() throws IOException {
+        captureWriter.append("truckload", 1_700_000_000_000L, payload(1));
+
+        captureWriter.suspend();
+        captureWriter.append("truckload", 1_700_000_000_500L, payload(2));
+        captureWriter.resume();
+        captureWriter.append("truckload", 1_700_000_001_000L, payload(3));
+        captureWriter.close();
+
+        List<CapturedMessage> messages = readAll(captureFiles());
+        assertEquals(2, messages.size());
+        assertArrayEquals(payload(1), toBytes(messages.get(0).getPayload()));
+        assertArrayEquals(payload(3), toBytes(messages.get(1).getPayload()));
+    }
+
+    private List<Path> captureFiles() throws IOException {
+        try (Stream<Path> files = Files.list(captureDir)) {
+            return files.sorted().collect(Collectors.toList());
+        }
+    }
+
+    private List<CapturedMessage> readAll(List<Path> files) throws IOException {
+        List<CapturedMessage> messages = new ArrayList<>();
+        for (Path file : files) {
+            try (DataFileReader<CapturedMessage> reader = new DataFileReader<>(
+                    file.toFile(), new SpecificDatumReader<>(CapturedMessage.class))) {
+                reader.forEach(messages::add);
+            }
+        }
+        return messages;
+    }
+
+    private static byte[] payload(int i) {
+        return ("payload-" + i + "-" + "x".repeat(i)).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,205 @@
+package com.cogarc.notification.consumer;
+
+import com.cogarc.notification.avro.CapturedMessage;
+import com.cogarc.notification.avro.OrderStatus;
+import com.cogarc.notification.avro.UCC;
+import com.cogarc.notification.capture.CaptureProcessor;
+import com.cogarc.notification.capture.CaptureWriter;
+import org.apache.avro.file.DataFileReader;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.AdviceWith;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsumerRoutesTest {
+
+    private static final String[] MESSAGE_TYPES = {"order-status", "ucc", "tour-appointment", "truckload"};
+
+    @TempDir
+    Path captureDir;
+
+    private CamelContext camelContext;
+    private ProducerTemplate producerTemplate;
+    private CaptureWriter captureWriter;
+    private MessageStorage messageStorage;
+    private StartupMetrics startupMetrics;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        captureWriter = new CaptureWriter();
+        ReflectionTestUtils.setField(captureWriter, "enabled", true);
+        ReflectionTestUtils.setField(captureWriter, "directory", captureDir.toString());
+        ReflectionTestUtils.setField(captureWriter, "maxFileSizeBytes", 67_108_864L);
+        ReflectionTestUtils.setField(captureWriter, "syncIntervalBytes", 65_536);
+        ReflectionTestUtils.setField(captureWriter, "flushIntervalMs", 60_000L);
+
+        CaptureProcessor captureProcessor = new CaptureProcessor();
+        ReflectionTestUtils.setField(captureProcessor, "captureWriter", captureWriter);
+
+        startupMetrics = new StartupMetrics();
+        messageStorage = new MessageStorage();
+        ReflectionTestUtils.setField(messageStorage, "startupMetrics", startupMetrics);
+
+        camelContext = new DefaultCamelContext();
+        camelContext.getRegistry().bind("captureProcessor", captureProcessor);
+        camelContext.getRegistry().bind("orderStatusProcessor", withStorage(new MessageProcessor.OrderStatusProcessor()));
+        camelContext.getRegistry().bind("uccProcessor", withStorage(new MessageProcessor.UCCProcessor()));
+        camelContext.getRegistry().bind("tourAppointmentProcessor", withStorage(new MessageProcessor.TourAppointmentProcessor()));
+        camelContext.getRegistry().bind("truckloadProcessor", withStorage(new MessageProcessor.TruckloadProcessor()));
+        camelContext.addRoutes(new ConsumerRoutes());
+
+        // Consume from direct: endpoints instead of the Pub/Sub subscriptions
+        for (String messageType : MESSAGE_TYPES) {
+            AdviceWith.adviceWith(camelContext, messageType + "-consumer",
+                route -> route.replaceFromWith("direct:" + messageType));
+        }
+        camelContext.start();
+        producerTemplate = camelContext.createProducerTemplate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        camelContext.stop();
+        captureWriter.close();
+    }
+
+    @Test
+    void orderStatusRouteCapturesUnmarshalsAndStores() throws Exception {
+        byte[] payload = encode(orderStatus("order-status-1"));
+
+        Exchange exchange = producerTemplate.send("direct:order-status", e -> e.getIn().setBody(payload));
+
+        assertNull(exchange.getException());
+        OrderStatus body = assertInstanceOf(OrderStatus.class, exchange.getMessage().getBody());
+        assertEquals("order-status-1", body.getId());
+        assertEquals("ORD-1", body.getOrderId());
+
+        MessageCountResponse count = messageStorage.getCount("order-status");
+        assertEquals(1, count.getCount());
+        assertEquals(List.of("order-status-1"), count.getIdentifiers());
+        assertEquals(0, messageStorage.getCount("ucc").getCount());
+
+        List<CapturedMessage> captured = readCaptured();
+        assertEquals(1, captured.size());
+        assertEquals("order-status", captured.get(0).getMessageType());
+        assertArrayEquals(payload, toBytes(captured.get(0).getPayload()));
+    }
+
+    @Test
+    void eachRouteUnmarshalsToItsOwnType() throws Exception {
+        byte[] payload = encode(ucc("ucc-1"));
+
+        Exchange exchange = producerTemplate.send("direct:ucc", e -> e.getIn().setBody(payload));
+
+        assertNull(exchange.getException());
+        UCC body = assertInstanceOf(UCC.class, exchange.getMessage().getBody());
+        assertEquals("UCC-1", body.getUccId());
+        assertEquals(List.of("ucc-1"), messageStorage.getCount("ucc").getIdentifiers());
+        assertEquals("ucc", readCaptured().get(0).getMessageType());
+    }
+
+    @Test
+    void suspendedCaptureStillProcessesMessages() throws Exception {
+        captureWriter.suspend();
+
+        Exchange exchange = producerTemplate.send("direct:order-status",
+            e -> e.getIn().setBody(encode(orderStatus("order-status-2"))));
+
+        assertNull(exchange.getException());
+        assertEquals(1, messageStorage.getCount("order-status").getCount());
+        assertEquals(0, readCaptured().size());
+    }
+
+    @Test
+    void firstConsumedMessageIsRecordedInStartupMetrics() throws Exception {
+        assertEquals(-1L, startupMetrics.getMetrics().get("timeToFirstMessageConsumedMs"));
+
+        producerTemplate.send("direct:order-status", e -> e.getIn().setBody(encode(orderStatus("order-status-3"))));
+
+        assertTrue(startupMetrics.getMetrics().get("timeToFirstMessageConsumedMs") >= 0);
+    }
+
+    private Object withStorage(Object processor) {
+        ReflectionTestUtils.setField(processor, "messageStorage", messageStorage);
+        return processor;
+    }
+
+    private List<CapturedMessage> readCaptured() throws IOException {
+        captureWriter.close();
+        List<CapturedMessage> captured = new ArrayList<>();
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(captureDir)) {
+            files = stream.sorted().toList();
+        }
+        for (Path file : files) {
+            try (DataFileReader<CapturedMessage> reader = new DataFileReader<>(
+                    file.toFile(), new SpecificDatumReader<>(CapturedMessage.class))) {
+                reader.forEach(captured::add);
+            }
+        }
+        return captured;
+    }
+
+    private static OrderStatus orderStatus(String id) {
+        return OrderStatus.newBuilder()
+            .setEmailType("ORDER_STATUS")
+            .setId(id)
+            .setOrderId("ORD-1")
+            .setStatus("SHIPPED")
+            .setCustomerEmail("customer@example.com")
+            .setTimestamp(1_700_000_000_000L)
+            .build();
+    }
+
+    private static UCC ucc(String id) {
+        return UCC.newBuilder()
+            .setEmailType("UCC")
+            .setId(id)
+            .setUccId("UCC-1")
+            .setDocumentType("BILL_OF_LADING")
+            .setRecipientEmail("recipient@example.com")
+            .setTimestamp(1_700_000_000_000L)
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends SpecificRecord> byte[] encode(T record) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        new SpecificDatumWriter<>((Class<T>) record.getClass()).write(record, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
+
+    private static byte[] toBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
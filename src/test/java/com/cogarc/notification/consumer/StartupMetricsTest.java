@@ -0,0 +1,82 @@
+package com.cogarc.notification.consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupMetricsTest {
+
+    @Test
+    void reportsUnsetMetricsBeforeStartup() {
+        StartupMetrics startupMetrics = new StartupMetrics();
+
+        assertEquals(-1L, startupMetrics.getMetrics().get("timeToReadyMs"));
+        assertEquals(-1L, startupMetrics.getMetrics().get("timeToFirstMessageConsumedMs"));
+    }
+
+    @Test
+    void recordsReadyTime() {
+        StartupMetrics startupMetrics = new StartupMetrics();
+
+        startupMetrics.onApplicationReady();
+
+        assertTrue(startupMetrics.getMetrics().get("timeToReadyMs") >= 0);
+    }
+
+    @Test
+    void keepsTheFirstConsumedMessageTime() throws Exception {
+        StartupMetrics startupMetrics = new StartupMetrics();
+
+        startupMetrics.markMessageConsumed();
+        long first = startupMetrics.getMetrics().get("timeToFirstMessageConsumedMs");
+        Thread.sleep(20);
+        startupMetrics.markMessageConsumed();
+
+        assertTrue(first >= 0);
+        assertEquals(first, startupMetrics.getMetrics().get("timeToFirstMessageConsumedMs"));
+    }
+
+    @Test
+    void exitsOnceAfterFirstMessageWhenEnabled() throws Exception {
+        RecordingExitStartupMetrics startupMetrics = new RecordingExitStartupMetrics();
+        ReflectionTestUtils.setField(startupMetrics, "exitAfterFirstMessage", true);
+
+        startupMetrics.markMessageConsumed();
+        startupMetrics.markMessageConsumed();
+
+        assertTrue(startupMetrics.exited.await(5, TimeUnit.SECONDS));
+        assertEquals("startup-exit", startupMetrics.exitThreadName);
+        Thread.sleep(100);
+        assertEquals(1, startupMetrics.exitCount.get());
+    }
+
+    @Test
+    void doesNotExitByDefault() throws Exception {
+        RecordingExitStartupMetrics startupMetrics = new RecordingExitStartupMetrics();
+
+        startupMetrics.markMessageConsumed();
+
+        assertFalse(startupMetrics.exited.await(200, TimeUnit.MILLISECONDS));
+        assertEquals(0, startupMetrics.exitCount.get());
+    }
+
+    private static class RecordingExitStartupMetrics extends StartupMetrics {
+        final CountDownLatch exited = new CountDownLatch(1);
+        final AtomicInteger exitCount = new AtomicInteger();
+        volatile String exitThreadName;
+
+        @Override
+        void exit() {
+            exitThreadName = Thread.currentThread().getName();
+            exitCount.incrementAndGet();
+            exited.countDown();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.cogarc.notification.producer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ProducerControllerTest {
+
+    private ReplayService replayService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        replayService = mock(ReplayService.class);
+        ProducerController controller = new ProducerController();
+        ReflectionTestUtils.setField(controller, "replayService", replayService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void replayStartsInBackground() throws Exception {
+        when(replayService.startReplay("fast")).thenReturn(true);
+
+        mockMvc.perform(post("/api/producer/replay").param("mode", "fast"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.status").value("started"));
+    }
+
+    @Test
+    void replayRejectsConcurrentReplay() throws Exception {
+        when(replayService.startReplay("original")).thenReturn(false);
+
+        mockMvc.perform(post("/api/producer/replay"))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.status").value("error"));
+    }
+
+    @Test
+    void replayRejectsInvalidMode() throws Exception {
+        mockMvc.perform(post("/api/producer/replay").param("mode", "slow"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.status").value("error"));
+
+        verify(replayService, never()).startReplay(anyString());
+    }
+
+    @Test
+    void cancelWithoutRunningReplayReturnsNotFound() throws Exception {
+        when(replayService.cancelReplay()).thenReturn(false);
+
+        mockMvc.perform(delete("/api/producer/replay"))
+            .andExpect(status().isNotFound());
+    }
+}
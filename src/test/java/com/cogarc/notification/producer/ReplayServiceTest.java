@@ -0,0 +1,238 @@
+package com.cogarc.notification.producer;
+
+import com.cogarc.notification.capture.CaptureWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplayServiceTest {
+
+    private static final long BASE_TIMESTAMP = 1_700_000_000_000L;
+
+    @TempDir
+    Path replayDir;
+
+    private RecordingProducerService producerService;
+    private ReplayService replayService;
+
+    @BeforeEach
+    void setUp() {
+        producerService = new RecordingProducerService();
+        CaptureWriter replayCaptureWriter = new CaptureWriter();
+        ReflectionTestUtils.setField(replayCaptureWriter, "enabled", false);
+
+        replayService = new ReplayService();
+        ReflectionTestUtils.setField(replayService, "producerService", producerService);
+        ReflectionTestUtils.setField(replayService, "captureWriter", replayCaptureWriter);
+        ReflectionTestUtils.setField(replayService, "replayDir", replayDir.toString());
+        ReflectionTestUtils.setField(replayService, "maxGapMs", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        replayService.shutdown();
+    }
+
+    @Test
+    void fastModePublishesAllFilesInNameOrder() throws Exception {
+        int messageCount = 30;
+        CaptureWriter writer = captureWriter(512L);
+        for (int i = 0; i < messageCount; i++) {
+            writer.append(type(i), BASE_TIMESTAMP + i * 60_000L, payload(i));
+        }
+        writer.close();
+        assertTrue(captureFileCount() > 1, "expected several capture files");
+
+        assertTrue(replayService.startReplay(ReplayService.MODE_FAST));
+        Map<String, Object> status = awaitFinished();
+
+        assertEquals("completed", status.get("state"));
+        assertEquals(messageCount, status.get("replayedCount"));
+        assertEquals(0, status.get("failedCount"));
+        assertEquals(messageCount, producerService.published.size());
+        for (int i = 0; i < messageCount; i++) {
+            assertEquals(type(i), producerService.published.get(i).messageType);
+            assertArrayEquals(payload(i), producerService.published.get(i).bytes);
+        }
+    }
+
+    @Test
+    void originalModeKeepsInterArrivalTiming() throws Exception {
+        CaptureWriter writer = captureWriter(67_108_864L);
+        writer.append("ucc", BASE_TIMESTAMP, payload(0));
+        writer.append("ucc", BASE_TIMESTAMP + 300, payload(1));
+        writer.append("ucc", BASE_TIMESTAMP + 600, payload(2));
+        writer.close();
+
+        assertTrue(replayService.startReplay(ReplayService.MODE_ORIGINAL));
+        awaitFinished();
+
+        List<Published> published = producerService.published;
+        assertEquals(3, published.size());
+        long firstGapMs = TimeUnit.NANOSECONDS.toMillis(published.get(1).nanos - published.get(0).nanos);
+        long totalMs = TimeUnit.NANOSECONDS.toMillis(published.get(2).nanos - published.get(0).nanos);
+        assertTrue(firstGapMs >= 280, "first gap was " + firstGapMs + " ms");
+        assertTrue(totalMs >= 580 && totalMs < 2_000, "total replay took " + totalMs + " ms");
+    }
+
+    @Test
+    void originalModeCapsLongGapsBetweenSessions() throws Exception {
+        ReflectionTestUtils.setField(replayService, "maxGapMs", 100L);
+        CaptureWriter writer = captureWriter(67_108_864L);
+        writer.append("truckload", BASE_TIMESTAMP, payload(0));
+        writer.append("truckload", BASE_TIMESTAMP + TimeUnit.HOURS.toMillis(6), payload(1));
+        writer.close();
+
+        long start = System.nanoTime();
+        assertTrue(replayService.startReplay(ReplayService.MODE_ORIGINAL));
+        Map<String, Object> status = awaitFinished();
+
+        assertEquals("completed", status.get("state"));
+        assertEquals(2, producerService.published.size());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5_000);
+    }
+
+    @Test
+    void cancelStopsReplayAndEndsCancelled() throws Exception {
+        CaptureWriter writer = captureWriter(67_108_864L);
+        writer.append("order-status", BASE_TIMESTAMP, payload(0));
+        writer.append("order-status", BASE_TIMESTAMP + 30_000, payload(1));
+        writer.close();
+
+        assertTrue(replayService.startReplay(ReplayService.MODE_ORIGINAL));
+        assertTrue(producerService.firstPublish.await(5, TimeUnit.SECONDS));
+        awaitStatus(status -> ((Number) status.get("waitingMs")).longValue() > 0);
+
+        assertTrue(replayService.cancelReplay());
+        Map<String, Object> status = awaitFinished();
+
+        assertEquals("cancelled", status.get("state"));
+        assertEquals(1, status.get("replayedCount"));
+        assertEquals(1, producerService.published.size());
+        assertFalse(replayService.cancelReplay());
+    }
+
+    @Test
+    void rejectsSecondReplayWhileRunning() throws Exception {
+        CaptureWriter writer = captureWriter(67_108_864L);
+        writer.append("ucc", BASE_TIMESTAMP, payload(0));
+        writer.append("ucc", BASE_TIMESTAMP + 30_000, payload(1));
+        writer.close();
+
+        assertTrue(replayService.startReplay(ReplayService.MODE_ORIGINAL));
+        assertFalse(replayService.startReplay(ReplayService.MODE_FAST));
+
+        replayService.cancelReplay();
+        awaitFinished();
+        assertTrue(replayService.startReplay(ReplayService.MODE_FAST));
+        awaitFinished();
+    }
+
+    @Test
+    void rejectsInvalidMode() {
+        assertThrows(IllegalArgumentException.class, () -> replayService.startReplay("slow"));
+    }
+
+    @Test
+    void countsFailedMessagesAndKeepsPublishing() throws Exception {
+        CaptureWriter writer = captureWriter(67_108_864L);
+        writer.append("order-status", BASE_TIMESTAMP, payload(0));
+        writer.append("unknown-type", BASE_TIMESTAMP + 1, payload(1));
+        writer.append("ucc", BASE_TIMESTAMP + 2, payload(2));
+        writer.append("ucc", BASE_TIMESTAMP + 3, payload(3));
+        writer.close();
+        producerService.failOn = 3;
+
+        assertTrue(replayService.startReplay(ReplayService.MODE_FAST));
+        Map<String, Object> status = awaitFinished();
+
+        assertEquals("failed", status.get("state"));
+        assertEquals(2, status.get("failedCount"));
+        assertEquals(2, status.get("replayedCount"));
+        assertArrayEquals(payload(3), producerService.published.get(1).bytes);
+    }
+
+    private CaptureWriter captureWriter(long maxFileSizeBytes) {
+        CaptureWriter writer = new CaptureWriter();
+        ReflectionTestUtils.setField(writer, "enabled", true);
+        ReflectionTestUtils.setField(writer, "directory", replayDir.toString());
+        ReflectionTestUtils.setField(writer, "maxFileSizeBytes", maxFileSizeBytes);
+        ReflectionTestUtils.setField(writer, "syncIntervalBytes", 32);
+        ReflectionTestUtils.setField(writer, "flushIntervalMs", 60_000L);
+        return writer;
+    }
+
+    private long captureFileCount() throws IOException {
+        try (var files = Files.list(replayDir)) {
+            return files.count();
+        }
+    }
+
+    private Map<String, Object> awaitFinished() throws InterruptedException {
+        return awaitStatus(status -> !"running".equals(status.get("state")));
+    }
+
+    private Map<String, Object> awaitStatus(Predicate<Map<String, Object>> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            Map<String, Object> status = replayService.getStatus();
+            if (condition.test(status)) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Timed out waiting for replay status, last: " + replayService.getStatus());
+    }
+
+    private static String type(int i) {
+        return List.of("order-status", "ucc", "tour-appointment", "truckload").get(i % 4);
+    }
+
+    private static byte[] payload(int i) {
+        return ("payload-" + i).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record Published(String messageType, byte[] bytes, long nanos) {
+    }
+
+    private static class RecordingProducerService extends ProducerService {
+        final List<Published> published = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch firstPublish = new CountDownLatch(1);
+        int calls;
+        int failOn = -1;
+
+        @Override
+        public boolean publishEncoded(String messageType, byte[] avroBytes) {
+            calls++;
+            if (calls == failOn) {
+                throw new IllegalStateException("simulated publish failure");
+            }
+            if (messageType.equals("unknown-type")) {
+                return false;
+            }
+            published.add(new Published(messageType, avroBytes, System.nanoTime()));
+            firstPublish.countDown();
+            return true;
+        }
+    }
+}